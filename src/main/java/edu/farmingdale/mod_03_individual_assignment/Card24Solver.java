@@ -0,0 +1,81 @@
+package edu.farmingdale.mod_03_individual_assignment;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Finds an arithmetic expression that combines four card ranks into 24.
+ */
+public class Card24Solver {
+
+    private Card24Solver() {
+    }
+
+    /**
+     * Uses a recursive solver to find an expression that evaluates to 24.
+     * @param ranks The card ranks (1-13) to combine.
+     * @return The expression if found, or null if the ranks have no solution.
+     */
+    public static String solve(List<Integer> ranks) {
+        List<Double> nums = new ArrayList<>();
+        List<String> exprs = new ArrayList<>();
+        for (int n : ranks) {
+            nums.add((double) n);
+            exprs.add(String.valueOf(n));
+        }
+        return solve24(nums, exprs);
+    }
+
+    /**
+     * Recursively tries different operations to solve the 24 game.
+     */
+    static String solve24(List<Double> nums, List<String> exprs) {
+        if (nums.size() == 1) {
+            return Math.abs(nums.get(0) - 24) < 1e-6 ? exprs.get(0) : null;
+        }
+        for (int i = 0; i < nums.size(); i++) {
+            for (int j = i + 1; j < nums.size(); j++) {
+                double a = nums.get(i), b = nums.get(j);
+                String exprA = exprs.get(i), exprB = exprs.get(j);
+                List<Double> candidateVals = new ArrayList<>();
+                List<String> candidateExprs = new ArrayList<>();
+                // Try addition
+                candidateVals.add(a + b);
+                candidateExprs.add("(" + exprA + "+" + exprB + ")");
+                // Try subtraction (both orders)
+                candidateVals.add(a - b);
+                candidateExprs.add("(" + exprA + "-" + exprB + ")");
+                candidateVals.add(b - a);
+                candidateExprs.add("(" + exprB + "-" + exprA + ")");
+                // Try multiplication
+                candidateVals.add(a * b);
+                candidateExprs.add("(" + exprA + "*" + exprB + ")");
+                // Try division (avoiding division by zero)
+                if (Math.abs(b) > 1e-6) {
+                    candidateVals.add(a / b);
+                    candidateExprs.add("(" + exprA + "/" + exprB + ")");
+                }
+                if (Math.abs(a) > 1e-6) {
+                    candidateVals.add(b / a);
+                    candidateExprs.add("(" + exprB + "/" + exprA + ")");
+                }
+                // Try each candidate operation
+                for (int k = 0; k < candidateVals.size(); k++) {
+                    List<Double> nextNums = new ArrayList<>();
+                    List<String> nextExprs = new ArrayList<>();
+                    nextNums.add(candidateVals.get(k));
+                    nextExprs.add(candidateExprs.get(k));
+                    for (int m = 0; m < nums.size(); m++) {
+                        if (m != i && m != j) {
+                            nextNums.add(nums.get(m));
+                            nextExprs.add(exprs.get(m));
+                        }
+                    }
+                    String result = solve24(nextNums, nextExprs);
+                    if (result != null) return result;
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -1,6 +1,5 @@
 package edu.farmingdale.mod_03_individual_assignment;
 
-import javafx.animation.PauseTransition;
 import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
@@ -8,11 +7,9 @@ import javafx.scene.Cursor;
 import javafx.scene.Scene;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Button;
-import javafx.scene.control.TextArea;
 import javafx.scene.control.TextField;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
-import javafx.scene.layout.Region;
 import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
 import javafx.stage.StageStyle;
@@ -40,8 +37,14 @@ public class CardGameController {
     // Store current card values (each between 1 and 52).
     private final int[] currentCards = new int[4];
 
-    // Timer to detect user inactivity (10 seconds).
-    private PauseTransition inactivityTimer;
+    // Delay before a hint is requested when the user is inactive.
+    private static final Duration INACTIVITY_DELAY = Duration.seconds(10);
+    // Shared scheduler that runs all game timers.
+    private final GameScheduler scheduler = GameScheduler.getInstance();
+    // Pending inactivity timer, or null if none is scheduled.
+    private GameScheduler.Timeout inactivityTimeout;
+    // Pre-styled dialogs reused for every message.
+    private final DialogPool dialogs = new DialogPool();
     // Maximum number of hints allowed per card deal: two hints and one solution.
     private static final int MAX_HINTS = 3;
     // Tracks how many hints have been shown.
@@ -186,60 +189,25 @@ public class CardGameController {
     }
 
     /**
-     * Creates and shows a styled alert window.
-     * For hints, the full text is always displayed in an editable, expanded TextArea.
-     * For longer messages in other alerts, an expandable TextArea is used.
+     * Shows a styled alert from the dialog pool and waits for the user to close it.
+     * Hint messages use the hint dialog; errors and other information use their own dialogs.
+     * If a dialog of the same type is already open, the message is queued behind it and this
+     * method returns right away without restarting the inactivity timer.
      */
     private void showAlert(Alert.AlertType type, String title, String content) {
-        Alert alert = createStyledAlert(type, title, content);
-        alert.showAndWait();
-        // Restart the inactivity timer only if hints are still available.
-        if (hintIndex < MAX_HINTS) {
-            resetInactivityTimer();
-        }
-    }
-
-    /**
-     * Helper method to create an alert with our CSS style.
-     * If the alert title is "Hint", a TextArea is used to display the full hint.
-     */
-    private Alert createStyledAlert(Alert.AlertType type, String title, String content) {
-        Alert alert = new Alert(type);
-        alert.setTitle(title);
-        alert.setHeaderText(null);
-        applyCssToDialog(alert);
-        // Always use a TextArea for hint messages to ensure full visibility.
-        if ("Hint".equals(title)) {
-            TextArea textArea = new TextArea(content);
-            textArea.setEditable(true);
-            textArea.setWrapText(true);
-            textArea.setPrefWidth(400);
-            textArea.setPrefHeight(200);
-            alert.getDialogPane().setContent(textArea);
-        } else if (content.contains("\n") || content.length() > 100) {
-            TextArea textArea = new TextArea(content);
-            textArea.setEditable(true);
-            textArea.setWrapText(true);
-            textArea.setMaxWidth(Double.MAX_VALUE);
-            textArea.setMaxHeight(Double.MAX_VALUE);
-            alert.getDialogPane().setExpandableContent(textArea);
-            alert.getDialogPane().setExpanded(true);
+        DialogPool.DialogType dialogType;
+        if (type == Alert.AlertType.ERROR) {
+            dialogType = DialogPool.DialogType.ERROR;
+        } else if ("Hint".equals(title)) {
+            dialogType = DialogPool.DialogType.HINT;
         } else {
-            alert.setContentText(content);
+            dialogType = DialogPool.DialogType.INFO;
+        }
+        boolean shown = dialogs.showAndWait(dialogType, title, content);
+        // Restart the inactivity timer only after the user closed the dialog and hints are still available.
+        if (shown && hintIndex < MAX_HINTS) {
+            resetInactivityTimer();
         }
-        return alert;
-    }
-
-    /**
-     * Applies the CSS file to the alert dialog so it follows the game’s color scheme.
-     * Also ensures the dialog pane is tall enough for full text display.
-     */
-    private void applyCssToDialog(Alert alert) {
-        alert.getDialogPane().getStylesheets().add(
-                getClass().getResource("/edu/farmingdale/mod_03_individual_assignment/style.css").toExternalForm()
-        );
-        alert.getDialogPane().setMinHeight(Region.USE_PREF_SIZE);
-        alert.getDialogPane().getStyleClass().add("hint-alert");
     }
 
     /**
@@ -248,21 +216,28 @@ public class CardGameController {
      * If no user action occurs within 10 seconds, a hint is requested.
      */
     private void setupInactivityTimer() {
-        inactivityTimer = new PauseTransition(Duration.seconds(10));
-        inactivityTimer.setOnFinished(event -> getHintFromAPI());
         expressionField.setOnKeyTyped(e -> resetInactivityTimer());
         expressionField.focusedProperty().addListener((obs, oldVal, newVal) -> {
             if (newVal) resetInactivityTimer();
         });
-        inactivityTimer.playFromStart();
+        resetInactivityTimer();
     }
 
     /**
-     * Restarts the inactivity timer.
+     * Restarts the inactivity timer by cancelling the pending one and scheduling a new one.
      */
     private void resetInactivityTimer() {
-        if (inactivityTimer != null) {
-            inactivityTimer.playFromStart();
+        stopInactivityTimer();
+        inactivityTimeout = scheduler.schedule(INACTIVITY_DELAY, this::getHintFromAPI);
+    }
+
+    /**
+     * Cancels the pending inactivity timer, if any.
+     */
+    private void stopInactivityTimer() {
+        if (inactivityTimeout != null) {
+            inactivityTimeout.cancel();
+            inactivityTimeout = null;
         }
     }
 
@@ -273,7 +248,7 @@ public class CardGameController {
      */
     private void getHintFromAPI() {
         if (hintIndex >= MAX_HINTS) {
-            inactivityTimer.stop();
+            stopInactivityTimer();
             return;
         }
         System.out.println("getHintFromAPI() triggered, hintIndex: " + hintIndex);
@@ -281,7 +256,7 @@ public class CardGameController {
         showAdvertisement(() -> {
             // Re-check the hint count inside the callback.
             if (hintIndex >= MAX_HINTS) {
-                inactivityTimer.stop();
+                stopInactivityTimer();
                 return;
             }
             if (hintIndex == MAX_HINTS - 1) {
@@ -289,7 +264,7 @@ public class CardGameController {
                 String solution = getSolution();
                 Platform.runLater(() -> showSolutionAlert("Solution", "Here is the solution:\n" + solution));
                 hintIndex++;
-                inactivityTimer.stop(); // Stop further hint triggers.
+                stopInactivityTimer(); // Stop further hint triggers.
                 return;
             }
             // For the first two hints, call the external Gemini API with an updated prompt for more detailed hints.
@@ -340,7 +315,7 @@ public class CardGameController {
             if (hintIndex < MAX_HINTS) {
                 resetInactivityTimer();
             } else {
-                inactivityTimer.stop();
+                stopInactivityTimer();
             }
         });
     }
@@ -369,16 +344,14 @@ public class CardGameController {
             StackPane adPane = new StackPane(adImageView);
             Scene adScene = new Scene(adPane);
             // Apply the CSS so that the ad window matches the game’s color scheme.
-            adScene.getStylesheets().add(getClass().getResource("/edu/farmingdale/mod_03_individual_assignment/style.css").toExternalForm());
+            adScene.getStylesheets().add(Helper.STYLESHEET);
             adStage.setScene(adScene);
             adStage.show();
             int delaySeconds = selectedAd.endsWith(".gif") ? 7 : 5;
-            PauseTransition adDelay = new PauseTransition(Duration.seconds(delaySeconds));
-            adDelay.setOnFinished(e -> {
+            scheduler.schedule(Duration.seconds(delaySeconds), () -> {
                 adStage.close();
                 callback.run();
             });
-            adDelay.play();
         });
     }
 
@@ -397,73 +370,14 @@ public class CardGameController {
     }
 
     /**
-     * Uses a recursive solver to find an expression that evaluates to 24.
+     * Uses the 24 solver to find an expression for the current cards.
      * Returns the expression if found, or a message indicating no solution.
      */
     private String getSolution() {
-        List<Double> nums = new ArrayList<>();
-        List<String> exprs = new ArrayList<>();
-        for (int n : getCardRanks(currentCards)) {
-            nums.add((double) n);
-            exprs.add(String.valueOf(n));
-        }
-        String sol = solve24(nums, exprs);
+        String sol = Card24Solver.solve(getCardRanks(currentCards));
         return sol != null ? sol : "No solution available.";
     }
 
-    /**
-     * Recursively tries different operations to solve the 24 game.
-     */
-    private String solve24(List<Double> nums, List<String> exprs) {
-        if (nums.size() == 1) {
-            return Math.abs(nums.get(0) - 24) < 1e-6 ? exprs.get(0) : null;
-        }
-        for (int i = 0; i < nums.size(); i++) {
-            for (int j = i + 1; j < nums.size(); j++) {
-                double a = nums.get(i), b = nums.get(j);
-                String exprA = exprs.get(i), exprB = exprs.get(j);
-                List<Double> candidateVals = new ArrayList<>();
-                List<String> candidateExprs = new ArrayList<>();
-                // Try addition
-                candidateVals.add(a + b);
-                candidateExprs.add("(" + exprA + "+" + exprB + ")");
-                // Try subtraction (both orders)
-                candidateVals.add(a - b);
-                candidateExprs.add("(" + exprA + "-" + exprB + ")");
-                candidateVals.add(b - a);
-                candidateExprs.add("(" + exprB + "-" + exprA + ")");
-                // Try multiplication
-                candidateVals.add(a * b);
-                candidateExprs.add("(" + exprA + "*" + exprB + ")");
-                // Try division (avoiding division by zero)
-                if (Math.abs(b) > 1e-6) {
-                    candidateVals.add(a / b);
-                    candidateExprs.add("(" + exprA + "/" + exprB + ")");
-                }
-                if (Math.abs(a) > 1e-6) {
-                    candidateVals.add(b / a);
-                    candidateExprs.add("(" + exprB + "/" + exprA + ")");
-                }
-                // Try each candidate operation
-                for (int k = 0; k < candidateVals.size(); k++) {
-                    List<Double> nextNums = new ArrayList<>();
-                    List<String> nextExprs = new ArrayList<>();
-                    nextNums.add(candidateVals.get(k));
-                    nextExprs.add(candidateExprs.get(k));
-                    for (int m = 0; m < nums.size(); m++) {
-                        if (m != i && m != j) {
-                            nextNums.add(nums.get(m));
-                            nextExprs.add(exprs.get(m));
-                        }
-                    }
-                    String result = solve24(nextNums, nextExprs);
-                    if (result != null) return result;
-                }
-            }
-        }
-        return null;
-    }
-
     /**
      * Sets up click events for each card image.
      * When a card is clicked, the card's rank is shown in a styled alert.
@@ -476,102 +390,15 @@ public class CardGameController {
     }
 
     /**
-     * Displays an alert showing the rank of the clicked card.
+     * Displays a non-blocking notice showing the rank of the clicked card.
      */
     private void showCardValue(int cardIndex) {
         int rank = (currentCards[cardIndex] - 1) % 13 + 1;
-        showAlert(Alert.AlertType.INFORMATION, "Card Value", "This card's value is: " + rank);
-    }
-
-    // --- ExpressionParser Inner Class ---
-    /**
-     * A simple recursive-descent parser for arithmetic expressions.
-     * Supports addition, subtraction, multiplication, division, and parentheses.
-     */
-    private static class ExpressionParser {
-        private final String str;
-        private int pos = -1;
-        private int ch;
-
-        ExpressionParser(String str) { this.str = str; }
-
-        // Moves to the next character in the string.
-        private void nextChar() {
-            pos++;
-            ch = (pos < str.length()) ? str.charAt(pos) : -1;
-        }
-
-        // If the current character matches charToEat, consume it and return true.
-        private boolean eat(int charToEat) {
-            while (ch == ' ') nextChar();
-            if (ch == charToEat) {
-                nextChar();
-                return true;
-            }
-            return false;
-        }
-
-        /**
-         * Starts parsing the expression and returns its evaluated value.
-         */
-        public double parse() throws Exception {
-            nextChar();
-            double x = parseExpression();
-            if (pos < str.length()) {
-                throw new Exception("Unexpected character: " + (char) ch);
-            }
-            return x;
-        }
-
-        /**
-         * Parses addition and subtraction.
-         */
-        private double parseExpression() throws Exception {
-            double x = parseTerm();
-            while (true) {
-                if (eat('+')) { x += parseTerm(); }
-                else if (eat('-')) { x -= parseTerm(); }
-                else { return x; }
-            }
-        }
-
-        /**
-         * Parses multiplication and division.
-         */
-        private double parseTerm() throws Exception {
-            double x = parseFactor();
-            while (true) {
-                if (eat('*')) { x *= parseFactor(); }
-                else if (eat('/')) { x /= parseFactor(); }
-                else { return x; }
-            }
-        }
-
-        /**
-         * Parses a number, parenthesis, or unary plus/minus.
-         */
-        private double parseFactor() throws Exception {
-            if (eat('+')) return parseFactor(); // Unary plus
-            if (eat('-')) return -parseFactor(); // Unary minus
-            double x;
-            int startPos = pos;
-            if (eat('(')) {
-                x = parseExpression();
-                if (!eat(')')) {
-                    throw new Exception("Missing closing parenthesis");
-                }
-            } else if ((ch >= '0' && ch <= '9') || ch == '.') {
-                while ((ch >= '0' && ch <= '9') || ch == '.') nextChar();
-                String numberStr = str.substring(startPos, pos);
-                try {
-                    x = Double.parseDouble(numberStr);
-                } catch (NumberFormatException e) {
-                    throw new Exception("Invalid number: " + numberStr);
-                }
-            } else {
-                throw new Exception("Unexpected character: " + (char) ch);
-            }
-            return x;
+        dialogs.show(DialogPool.DialogType.NOTICE, cardImage1.getScene().getWindow(),
+                "Card Value", "This card's value is: " + rank);
+        // Clicking a card counts as activity, so restart the hint timer if hints remain.
+        if (hintIndex < MAX_HINTS) {
+            resetInactivityTimer();
         }
     }
 
@@ -580,17 +407,6 @@ public class CardGameController {
      * allowing the user to easily highlight and copy the solution.
      */
     private void showSolutionAlert(String title, String solution) {
-        Alert alert = new Alert(Alert.AlertType.INFORMATION);
-        alert.setTitle(title);
-        alert.setHeaderText(null);
-        applyCssToDialog(alert);
-        TextArea textArea = new TextArea(solution);
-        textArea.setEditable(true); // Allow user to highlight and copy
-        textArea.setWrapText(true);
-        textArea.setMaxWidth(Double.MAX_VALUE);
-        textArea.setMaxHeight(Double.MAX_VALUE);
-        alert.getDialogPane().setContent(textArea);
-        alert.getDialogPane().setExpanded(true);
-        alert.showAndWait();
+        dialogs.showAndWait(DialogPool.DialogType.SOLUTION, title, solution);
     }
 }
@@ -0,0 +1,147 @@
+package edu.farmingdale.mod_03_individual_assignment;
+
+import javafx.scene.control.Alert;
+import javafx.scene.control.DialogPane;
+import javafx.scene.control.TextArea;
+import javafx.scene.layout.Region;
+import javafx.stage.Modality;
+import javafx.stage.Stage;
+import javafx.stage.Window;
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * Keeps one pre-styled alert per message type and reuses it with new content,
+ * so the stylesheet and TextArea are set up only once instead of on every message.
+ * Must be used on the JavaFX Application Thread.
+ */
+public class DialogPool {
+
+    /**
+     * The kinds of dialogs the game shows.
+     */
+    public enum DialogType {
+        INFO,     // General information, waits for the user
+        ERROR,    // Error messages, waits for the user
+        HINT,     // Hints, always shown in a TextArea
+        SOLUTION, // The solution, shown in a copyable TextArea
+        NOTICE    // Non-critical messages (e.g. card values), shown without blocking the game
+    }
+
+    // Messages with a line break or longer than this are shown in an expandable TextArea.
+    private static final int LONG_MESSAGE_LENGTH = 100;
+
+    private final Map<DialogType, Alert> alerts = new EnumMap<>(DialogType.class);
+    private final Map<DialogType, TextArea> textAreas = new EnumMap<>(DialogType.class);
+    // Messages waiting for the open dialog of the same type to be closed.
+    private final Map<DialogType, Queue<String[]>> waiting = new EnumMap<>(DialogType.class);
+
+    /**
+     * Shows a dialog and waits until the user closes it.
+     * If a dialog of the same type is already open, the message is queued and this method
+     * returns right away; the queued message is shown after the open dialog is closed.
+     * @return true if the dialog was shown and closed, false if the message was queued.
+     */
+    public boolean showAndWait(DialogType type, String title, String content) {
+        Alert alert = alerts.computeIfAbsent(type, this::createAlert);
+        Queue<String[]> queue = waiting.computeIfAbsent(type, t -> new ArrayDeque<>());
+        if (alert.isShowing()) {
+            queue.add(new String[] {title, content});
+            return false;
+        }
+        prepare(type, title, content).showAndWait();
+        // Show anything that arrived while the dialog was open, one message at a time.
+        String[] next;
+        while ((next = queue.poll()) != null) {
+            prepare(type, next[0], next[1]).showAndWait();
+        }
+        return true;
+    }
+
+    /**
+     * Shows a dialog above the owner window and returns immediately.
+     * If the same type of dialog is already open, its content is replaced and it is brought to the front.
+     * @param owner The window the dialog stays above; it is only applied when the dialog is first created.
+     */
+    public void show(DialogType type, Window owner, String title, String content) {
+        if (!alerts.containsKey(type) && owner != null) {
+            // An owned dialog stays above the game window instead of hiding behind it.
+            Alert created = createAlert(type);
+            created.initOwner(owner);
+            alerts.put(type, created);
+        }
+        Alert alert = prepare(type, title, content);
+        if (alert.isShowing()) {
+            ((Stage) alert.getDialogPane().getScene().getWindow()).toFront();
+        } else {
+            alert.show();
+        }
+    }
+
+    /**
+     * Gets the pooled alert for the type and fills it with the new title and content.
+     */
+    private Alert prepare(DialogType type, String title, String content) {
+        Alert alert = alerts.computeIfAbsent(type, this::createAlert);
+        alert.setTitle(title);
+        DialogPane pane = alert.getDialogPane();
+        TextArea textArea = textAreas.get(type);
+        switch (type) {
+            case HINT, SOLUTION -> textArea.setText(content);
+            default -> {
+                // Longer messages go in the expandable TextArea, short ones in the content label.
+                if (content.contains("\n") || content.length() > LONG_MESSAGE_LENGTH) {
+                    textArea.setText(content);
+                    alert.setContentText("");
+                    pane.setExpandableContent(textArea);
+                    pane.setExpanded(true);
+                } else {
+                    pane.setExpandableContent(null);
+                    pane.setExpanded(false);
+                    alert.setContentText(content);
+                }
+            }
+        }
+        // A reused dialog keeps its old size, so fit the window to the new content.
+        Window window = pane.getScene() != null ? pane.getScene().getWindow() : null;
+        if (window != null) {
+            window.sizeToScene();
+        }
+        return alert;
+    }
+
+    /**
+     * Builds a new alert with the game's stylesheet and a reusable TextArea.
+     */
+    private Alert createAlert(DialogType type) {
+        Alert alert = new Alert(type == DialogType.ERROR ? Alert.AlertType.ERROR : Alert.AlertType.INFORMATION);
+        alert.setHeaderText(null);
+        if (type == DialogType.NOTICE) {
+            // Let the player keep interacting with the game while the notice is open.
+            alert.initModality(Modality.NONE);
+        }
+        DialogPane pane = alert.getDialogPane();
+        pane.getStylesheets().add(Helper.STYLESHEET);
+        pane.setMinHeight(Region.USE_PREF_SIZE);
+        pane.getStyleClass().add("hint-alert");
+
+        TextArea textArea = new TextArea();
+        textArea.setEditable(true); // Allow user to highlight and copy
+        textArea.setWrapText(true);
+        if (type == DialogType.HINT) {
+            textArea.setPrefWidth(400);
+            textArea.setPrefHeight(200);
+        } else {
+            textArea.setMaxWidth(Double.MAX_VALUE);
+            textArea.setMaxHeight(Double.MAX_VALUE);
+        }
+        if (type == DialogType.HINT || type == DialogType.SOLUTION) {
+            pane.setContent(textArea);
+            pane.setExpanded(true);
+        }
+        textAreas.put(type, textArea);
+        return alert;
+    }
+}
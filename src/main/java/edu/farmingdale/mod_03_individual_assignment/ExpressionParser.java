@@ -0,0 +1,92 @@
+package edu.farmingdale.mod_03_individual_assignment;
+
+/**
+ * A simple recursive-descent parser for arithmetic expressions.
+ * Supports addition, subtraction, multiplication, division, and parentheses.
+ */
+class ExpressionParser {
+    private final String str;
+    private int pos = -1;
+    private int ch;
+
+    ExpressionParser(String str) { this.str = str; }
+
+    // Moves to the next character in the string.
+    private void nextChar() {
+        pos++;
+        ch = (pos < str.length()) ? str.charAt(pos) : -1;
+    }
+
+    // If the current character matches charToEat, consume it and return true.
+    private boolean eat(int charToEat) {
+        while (ch == ' ') nextChar();
+        if (ch == charToEat) {
+            nextChar();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Starts parsing the expression and returns its evaluated value.
+     */
+    public double parse() throws Exception {
+        nextChar();
+        double x = parseExpression();
+        if (pos < str.length()) {
+            throw new Exception("Unexpected character: " + (char) ch);
+        }
+        return x;
+    }
+
+    /**
+     * Parses addition and subtraction.
+     */
+    private double parseExpression() throws Exception {
+        double x = parseTerm();
+        while (true) {
+            if (eat('+')) { x += parseTerm(); }
+            else if (eat('-')) { x -= parseTerm(); }
+            else { return x; }
+        }
+    }
+
+    /**
+     * Parses multiplication and division.
+     */
+    private double parseTerm() throws Exception {
+        double x = parseFactor();
+        while (true) {
+            if (eat('*')) { x *= parseFactor(); }
+            else if (eat('/')) { x /= parseFactor(); }
+            else { return x; }
+        }
+    }
+
+    /**
+     * Parses a number, parenthesis, or unary plus/minus.
+     */
+    private double parseFactor() throws Exception {
+        if (eat('+')) return parseFactor(); // Unary plus
+        if (eat('-')) return -parseFactor(); // Unary minus
+        double x;
+        int startPos = pos;
+        if (eat('(')) {
+            x = parseExpression();
+            if (!eat(')')) {
+                throw new Exception("Missing closing parenthesis");
+            }
+        } else if ((ch >= '0' && ch <= '9') || ch == '.') {
+            while ((ch >= '0' && ch <= '9') || ch == '.') nextChar();
+            String numberStr = str.substring(startPos, pos);
+            try {
+                x = Double.parseDouble(numberStr);
+            } catch (NumberFormatException e) {
+                throw new Exception("Invalid number: " + numberStr);
+            }
+        } else {
+            throw new Exception("Unexpected character: " + (char) ch);
+        }
+        return x;
+    }
+}
@@ -0,0 +1,243 @@
+package edu.farmingdale.mod_03_individual_assignment;
+
+import javafx.animation.AnimationTimer;
+import javafx.util.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongConsumer;
+
+/**
+ * Single scheduler for all timed game events (splash delay, inactivity hints, ad expiry).
+ * Timers are kept in a hashed timing wheel that is advanced by one JavaFX animation pulse,
+ * so scheduling and cancelling a timer are O(1) and no PauseTransition is created per event.
+ * All methods must be called on the JavaFX Application Thread; actions also run there.
+ */
+public class GameScheduler {
+
+    // Length of one wheel tick in milliseconds.
+    private static final long TICK_MILLIS = 50;
+    // Number of buckets in the wheel (must be a power of two). 256 * 50ms = 12.8s per turn.
+    private static final int WHEEL_SIZE = 256;
+
+    // Shared scheduler used by the whole application, created on first use.
+    private static GameScheduler instance;
+
+    private final long tickNanos;
+    private final long tickMillis;
+    private final int mask;
+    // Each bucket is the sentinel head of a circular doubly linked list of timeouts.
+    private final Timeout[] wheel;
+    // Drives the wheel; only running while at least one timer is pending.
+    private final Pulse pulse;
+
+    // Last tick that has been processed.
+    private long currentTick = 0;
+    // Time (System.nanoTime) that corresponds to tick 0.
+    private long baseNanos;
+    private boolean running = false;
+    private int pendingCount = 0;
+
+    /**
+     * Returns the shared game scheduler.
+     */
+    public static GameScheduler getInstance() {
+        if (instance == null) {
+            instance = new GameScheduler(TICK_MILLIS, WHEEL_SIZE, new AnimationPulse());
+        }
+        return instance;
+    }
+
+    /**
+     * Creates a scheduler driven by the given pulse.
+     * @param tickMillis Length of one wheel tick in milliseconds.
+     * @param wheelSize Number of buckets in the wheel (a power of two).
+     * @param pulse Calls back with the current time (System.nanoTime) on every frame while started.
+     */
+    GameScheduler(long tickMillis, int wheelSize, Pulse pulse) {
+        if (Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("Wheel size must be a power of two: " + wheelSize);
+        }
+        this.tickMillis = tickMillis;
+        this.tickNanos = tickMillis * 1_000_000L;
+        this.mask = wheelSize - 1;
+        this.wheel = new Timeout[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            Timeout head = new Timeout(this, 0, null);
+            head.prev = head;
+            head.next = head;
+            wheel[i] = head;
+        }
+        this.pulse = pulse;
+    }
+
+    /**
+     * Schedules an action to run once after the given delay.
+     * @param delay How long to wait before running the action.
+     * @param action The code to run on the JavaFX Application Thread.
+     * @return A handle that can be used to cancel the timer.
+     */
+    public Timeout schedule(Duration delay, Runnable action) {
+        long ticks = Math.max(1, (long) Math.ceil(delay.toMillis() / tickMillis));
+        Timeout timeout = new Timeout(this, currentTick + ticks, action);
+        link(wheel[(int) (timeout.deadlineTick & mask)], timeout);
+        pendingCount++;
+        if (!running) {
+            // Line the clock up with the current tick so idle time is not counted.
+            baseNanos = System.nanoTime() - currentTick * tickNanos;
+            running = true;
+            pulse.start(now -> advanceTo((now - baseNanos) / tickNanos));
+        }
+        return timeout;
+    }
+
+    /**
+     * Returns how many timers are scheduled and have not yet fired or been cancelled.
+     */
+    public int getPendingCount() {
+        return pendingCount;
+    }
+
+    /**
+     * Processes every tick up to the target tick, running timers whose deadline has passed.
+     */
+    void advanceTo(long targetTick) {
+        // Only allocated when a timer expires, so idle frames create no garbage. It is kept local
+        // because an action can open a nested event loop that advances the wheel again.
+        List<Timeout> expired = null;
+        while (currentTick < targetTick) {
+            currentTick++;
+            Timeout head = wheel[(int) (currentTick & mask)];
+            Timeout node = head.next;
+            while (node != head) {
+                Timeout next = node.next;
+                if (node.deadlineTick <= currentTick) {
+                    unlink(node);
+                    pendingCount--;
+                    if (expired == null) {
+                        expired = new ArrayList<>();
+                    }
+                    expired.add(node);
+                }
+                node = next;
+            }
+            if (expired == null) {
+                continue;
+            }
+            // Run after unlinking so actions can safely schedule or cancel other timers.
+            for (Timeout timeout : expired) {
+                if (timeout.state == Timeout.PENDING) {
+                    timeout.state = Timeout.EXPIRED;
+                    // A failing action must not stop the other timers in this tick from running.
+                    try {
+                        timeout.action.run();
+                    } catch (RuntimeException e) {
+                        e.printStackTrace();
+                    }
+                }
+            }
+            expired.clear();
+        }
+        if (pendingCount == 0 && running) {
+            running = false;
+            pulse.stop();
+        }
+    }
+
+    /**
+     * Source of frame callbacks that advances the wheel.
+     */
+    interface Pulse {
+        void start(LongConsumer onFrame);
+
+        void stop();
+    }
+
+    /**
+     * Pulse driven by a single JavaFX AnimationTimer.
+     */
+    private static final class AnimationPulse implements Pulse {
+        private AnimationTimer timer;
+        private LongConsumer onFrame;
+
+        @Override
+        public void start(LongConsumer onFrame) {
+            this.onFrame = onFrame;
+            if (timer == null) {
+                timer = new AnimationTimer() {
+                    @Override
+                    public void handle(long now) {
+                        AnimationPulse.this.onFrame.accept(now);
+                    }
+                };
+            }
+            timer.start();
+        }
+
+        @Override
+        public void stop() {
+            if (timer != null) {
+                timer.stop();
+            }
+        }
+    }
+
+    private static void link(Timeout head, Timeout node) {
+        node.prev = head.prev;
+        node.next = head;
+        head.prev.next = node;
+        head.prev = node;
+    }
+
+    private static void unlink(Timeout node) {
+        node.prev.next = node.next;
+        node.next.prev = node.prev;
+        node.prev = null;
+        node.next = null;
+    }
+
+    /**
+     * Handle for a single scheduled action.
+     */
+    public static final class Timeout {
+        private static final int PENDING = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+
+        private final GameScheduler scheduler;
+        private final long deadlineTick;
+        private final Runnable action;
+        private int state = PENDING;
+        private Timeout prev;
+        private Timeout next;
+
+        private Timeout(GameScheduler scheduler, long deadlineTick, Runnable action) {
+            this.scheduler = scheduler;
+            this.deadlineTick = deadlineTick;
+            this.action = action;
+        }
+
+        /**
+         * Cancels the timer if it has not fired yet.
+         * @return true if the timer was still pending and is now cancelled.
+         */
+        public boolean cancel() {
+            if (state != PENDING) {
+                return false;
+            }
+            state = CANCELLED;
+            // The node is already unlinked if it is waiting to run in the current tick.
+            if (next != null) {
+                unlink(this);
+                scheduler.pendingCount--;
+            }
+            return true;
+        }
+
+        /**
+         * Returns true if the timer has neither fired nor been cancelled.
+         */
+        public boolean isPending() {
+            return state == PENDING;
+        }
+    }
+}
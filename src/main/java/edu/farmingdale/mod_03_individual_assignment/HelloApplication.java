@@ -1,6 +1,5 @@
 package edu.farmingdale.mod_03_individual_assignment;
 
-import javafx.animation.PauseTransition;
 import javafx.application.Application;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Scene;
@@ -16,14 +15,12 @@ public class HelloApplication extends Application {
         // Load and show the splash screen first
         Scene splashScene = loadFXMLScene("/edu/farmingdale/mod_03_individual_assignment/splashscreen.fxml");
         // Attach the CSS file so that styles are applied
-        splashScene.getStylesheets().add(getClass().getResource("/edu/farmingdale/mod_03_individual_assignment/style.css").toExternalForm());
+        splashScene.getStylesheets().add(Helper.STYLESHEET);
         stage.setScene(splashScene);       // Set the scene to splash screen
         stage.setTitle("Card Game - 24");    // Set the window title
         stage.show();                        // Show the window
         // Keep the splash screen for 2 seconds before switching
-        PauseTransition delay = new PauseTransition(Duration.seconds(2));
-        delay.setOnFinished(event -> switchToGameScene(stage));
-        delay.play();  // Start the delay timer
+        GameScheduler.getInstance().schedule(Duration.seconds(2), () -> switchToGameScene(stage));
     }
 
     /**
@@ -52,9 +49,7 @@ public class HelloApplication extends Application {
             // Load the game scene from the FXML file
             Scene gameScene = loadFXMLScene("/edu/farmingdale/mod_03_individual_assignment/card.fxml");
             // Attach the CSS file to the game scene
-            String cssFile = "/edu/farmingdale/mod_03_individual_assignment/style.css";
-            URL cssUrl = getClass().getResource(cssFile);
-            gameScene.getStylesheets().add(cssUrl.toExternalForm());
+            gameScene.getStylesheets().add(Helper.STYLESHEET);
             stage.setScene(gameScene); // Set the scene to the game scene
         } catch (Exception e) {
             e.printStackTrace();
@@ -5,6 +5,10 @@ import java.io.InputStream;
 import java.util.Properties;
 
 public class Helper {
+    // Game stylesheet, resolved once and shared by every scene and dialog.
+    public static final String STYLESHEET =
+            Helper.class.getResource("/edu/farmingdale/mod_03_individual_assignment/style.css").toExternalForm();
+
     public static Properties loadProperties() {
         Properties properties = new Properties();
         try (InputStream input = Helper.class.getResourceAsStream("/edu/farmingdale/mod_03_individual_assignment/config.properties")) {
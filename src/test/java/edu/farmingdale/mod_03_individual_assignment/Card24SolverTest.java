@@ -0,0 +1,227 @@
+package edu.farmingdale.mod_03_individual_assignment;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the 24 solver and expression parser against every possible hand of card ranks.
+ * The timing tests are tagged "performance" and run with {@code mvn test -Pperformance},
+ * so speed regressions fail that build without making the default build depend on machine load.
+ */
+class Card24SolverTest {
+
+    // Number of multisets of four ranks chosen from 1-13: C(16, 4).
+    private static final int HAND_COUNT = 1820;
+    // Number of those hands that can make 24 with +, -, * and /.
+    private static final int SOLVABLE_HAND_COUNT = 1362;
+
+    // Solving the whole table may take at most this many times as long as the exact reference
+    // solver on the same run. Comparing the two keeps the check stable on a slow or loaded machine.
+    private static final int SOLVE_RATIO_BUDGET = 10;
+    // Number of timed runs per solver; the fastest one is used.
+    private static final int TIMED_RUNS = 3;
+    // Time budget for parsing every solution found, far above the expected time so only real regressions fail it.
+    private static final Duration PARSE_BUDGET = Duration.ofSeconds(1);
+
+    private static List<List<Integer>> hands;
+    private static List<String> solutions;
+
+    @BeforeAll
+    static void solveAllHands() {
+        hands = allHands();
+        solutions = new ArrayList<>();
+        for (List<Integer> hand : hands) {
+            solutions.add(Card24Solver.solve(hand));
+        }
+        // Warm up the parser so the timing test does not depend on which test runs first.
+        for (String solution : solutions) {
+            if (solution != null) {
+                try {
+                    new ExpressionParser(solution).parse();
+                } catch (Exception e) {
+                    // Reported by everySolutionParsesTo24UsingTheHandsRanks.
+                }
+            }
+        }
+    }
+
+    @Test
+    void coversEveryRankMultiset() {
+        assertEquals(HAND_COUNT, hands.size());
+    }
+
+    @Test
+    void agreesWithExactSolverOnEveryHand() {
+        int solvable = 0;
+        for (int h = 0; h < hands.size(); h++) {
+            List<Integer> hand = hands.get(h);
+            boolean expected = ExactSolver.canMake24(hand);
+            assertEquals(expected, solutions.get(h) != null, "Solver disagrees with exact solver for " + hand);
+            if (expected) solvable++;
+        }
+        assertEquals(SOLVABLE_HAND_COUNT, solvable);
+    }
+
+    @Test
+    void everySolutionParsesTo24UsingTheHandsRanks() throws Exception {
+        for (int h = 0; h < hands.size(); h++) {
+            String solution = solutions.get(h);
+            if (solution == null) continue;
+            double value = new ExpressionParser(solution).parse();
+            assertEquals(24.0, value, 1e-6, "Solution " + solution + " for " + hands.get(h));
+            assertEquals(hands.get(h), numbersIn(solution), "Solution " + solution + " does not use the hand's ranks");
+        }
+    }
+
+    @Tag("performance")
+    @Test
+    void solvesWholeTableWithinBudgetOfReferenceSolver() {
+        long solverNanos = fastestRun(() -> {
+            for (List<Integer> hand : hands) {
+                Card24Solver.solve(hand);
+            }
+        });
+        long referenceNanos = fastestRun(() -> {
+            for (List<Integer> hand : hands) {
+                ExactSolver.canMake24(hand);
+            }
+        });
+        assertTrue(solverNanos <= SOLVE_RATIO_BUDGET * referenceNanos,
+                "Solving all " + HAND_COUNT + " hands took " + solverNanos / 1_000_000 + "ms, more than "
+                        + SOLVE_RATIO_BUDGET + "x the reference solver's " + referenceNanos / 1_000_000 + "ms");
+    }
+
+    @Tag("performance")
+    @Test
+    void parsesAllSolutionsWithinBudget() {
+        assertTimeoutPreemptively(PARSE_BUDGET, () -> {
+            for (String solution : solutions) {
+                if (solution != null) {
+                    new ExpressionParser(solution).parse();
+                }
+            }
+        }, "Parsing all solutions took longer than " + PARSE_BUDGET);
+    }
+
+    @Test
+    void parserHandlesPrecedenceParenthesesAndUnaryMinus() throws Exception {
+        assertEquals(14.0, new ExpressionParser("2 + 3 * 4").parse(), 1e-9);
+        assertEquals(20.0, new ExpressionParser("(2 + 3) * 4").parse(), 1e-9);
+        assertEquals(24.0, new ExpressionParser("8 / (3 - 8 / 3)").parse(), 1e-9);
+        assertEquals(-3.0, new ExpressionParser("-(1 + 2)").parse(), 1e-9);
+    }
+
+    @Test
+    void parserRejectsMalformedExpressions() {
+        assertThrows(Exception.class, () -> new ExpressionParser("(1 + 2").parse());
+        assertThrows(Exception.class, () -> new ExpressionParser("1 + x").parse());
+        assertThrows(Exception.class, () -> new ExpressionParser("1 2").parse());
+    }
+
+    /**
+     * Builds every multiset of four ranks (1-13) in non-decreasing order.
+     */
+    private static List<List<Integer>> allHands() {
+        List<List<Integer>> result = new ArrayList<>();
+        for (int a = 1; a <= 13; a++)
+            for (int b = a; b <= 13; b++)
+                for (int c = b; c <= 13; c++)
+                    for (int d = c; d <= 13; d++)
+                        result.add(List.of(a, b, c, d));
+        return result;
+    }
+
+    /**
+     * Runs the task several times and returns the fastest time in nanoseconds.
+     */
+    private static long fastestRun(Runnable task) {
+        long fastest = Long.MAX_VALUE;
+        for (int i = 0; i < TIMED_RUNS; i++) {
+            long start = System.nanoTime();
+            task.run();
+            fastest = Math.min(fastest, System.nanoTime() - start);
+        }
+        return fastest;
+    }
+
+    /**
+     * Extracts the numbers used in an expression, sorted.
+     */
+    private static List<Integer> numbersIn(String expression) {
+        List<Integer> nums = new ArrayList<>();
+        Matcher matcher = Pattern.compile("\\d+").matcher(expression);
+        while (matcher.find()) {
+            nums.add(Integer.parseInt(matcher.group()));
+        }
+        nums.sort(Integer::compareTo);
+        return nums;
+    }
+
+    /**
+     * Reference solver that uses exact fractions, so it is not affected by rounding.
+     */
+    private static final class ExactSolver {
+
+        static boolean canMake24(List<Integer> ranks) {
+            List<long[]> nums = new ArrayList<>();
+            for (int r : ranks) {
+                nums.add(new long[] {r, 1});
+            }
+            return search(nums);
+        }
+
+        private static boolean search(List<long[]> nums) {
+            if (nums.size() == 1) {
+                long[] x = nums.get(0);
+                return x[1] != 0 && x[0] == 24 * x[1];
+            }
+            for (int i = 0; i < nums.size(); i++) {
+                for (int j = i + 1; j < nums.size(); j++) {
+                    long[] a = nums.get(i), b = nums.get(j);
+                    List<long[]> candidates = new ArrayList<>();
+                    candidates.add(reduce(a[0] * b[1] + b[0] * a[1], a[1] * b[1]));
+                    candidates.add(reduce(a[0] * b[1] - b[0] * a[1], a[1] * b[1]));
+                    candidates.add(reduce(b[0] * a[1] - a[0] * b[1], a[1] * b[1]));
+                    candidates.add(reduce(a[0] * b[0], a[1] * b[1]));
+                    if (b[0] != 0) candidates.add(reduce(a[0] * b[1], a[1] * b[0]));
+                    if (a[0] != 0) candidates.add(reduce(b[0] * a[1], b[1] * a[0]));
+                    for (long[] candidate : candidates) {
+                        List<long[]> next = new ArrayList<>();
+                        next.add(candidate);
+                        for (int m = 0; m < nums.size(); m++) {
+                            if (m != i && m != j) next.add(nums.get(m));
+                        }
+                        if (search(next)) return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        private static long[] reduce(long num, long den) {
+            if (den < 0) {
+                num = -num;
+                den = -den;
+            }
+            long g = gcd(Math.abs(num), den);
+            return g == 0 ? new long[] {num, den} : new long[] {num / g, den / g};
+        }
+
+        private static long gcd(long a, long b) {
+            while (b != 0) {
+                long t = a % b;
+                a = b;
+                b = t;
+            }
+            return a;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package edu.farmingdale.mod_03_individual_assignment;
+
+import javafx.util.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongConsumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the timing wheel by advancing it tick by tick instead of using the JavaFX pulse.
+ */
+class GameSchedulerTest {
+
+    // Same tick length and wheel size as the shared scheduler.
+    private static final long TICK_MILLIS = 50;
+    private static final int WHEEL_SIZE = 256;
+
+    private ManualPulse pulse;
+    private GameScheduler scheduler;
+    private List<String> fired;
+
+    @BeforeEach
+    void setUp() {
+        pulse = new ManualPulse();
+        scheduler = new GameScheduler(TICK_MILLIS, WHEEL_SIZE, pulse);
+        fired = new ArrayList<>();
+    }
+
+    @Test
+    void timerFiresAtItsDeadline() {
+        scheduler.schedule(Duration.millis(TICK_MILLIS * 3), () -> fired.add("a"));
+        assertTrue(pulse.running);
+
+        scheduler.advanceTo(2);
+        assertEquals(List.of(), fired);
+        assertEquals(1, scheduler.getPendingCount());
+
+        scheduler.advanceTo(3);
+        assertEquals(List.of("a"), fired);
+        assertEquals(0, scheduler.getPendingCount());
+        assertFalse(pulse.running);
+    }
+
+    @Test
+    void deadlineMoreThanOneTurnAwayWaitsForItsTurn() {
+        long ticks = WHEEL_SIZE + 44;
+        GameScheduler.Timeout timeout = scheduler.schedule(Duration.millis(TICK_MILLIS * ticks), () -> fired.add("late"));
+
+        // The timer's bucket is visited once before its deadline.
+        scheduler.advanceTo(ticks - 1);
+        assertEquals(List.of(), fired);
+        assertTrue(timeout.isPending());
+
+        scheduler.advanceTo(ticks);
+        assertEquals(List.of("late"), fired);
+        assertFalse(timeout.isPending());
+    }
+
+    @Test
+    void cancelledTimerNeverFires() {
+        GameScheduler.Timeout timeout = scheduler.schedule(Duration.millis(TICK_MILLIS), () -> fired.add("a"));
+        assertTrue(timeout.cancel());
+        assertFalse(timeout.isPending());
+        assertEquals(0, scheduler.getPendingCount());
+        assertFalse(timeout.cancel());
+
+        scheduler.advanceTo(1);
+        assertEquals(List.of(), fired);
+    }
+
+    @Test
+    void cancelFromInsideAnotherTimersAction() {
+        GameScheduler.Timeout[] others = new GameScheduler.Timeout[2];
+        scheduler.schedule(Duration.millis(TICK_MILLIS), () -> {
+            fired.add("first");
+            // One timer expires in the same tick, the other is still on the wheel.
+            assertTrue(others[0].cancel());
+            assertTrue(others[1].cancel());
+        });
+        others[0] = scheduler.schedule(Duration.millis(TICK_MILLIS), () -> fired.add("sameTick"));
+        others[1] = scheduler.schedule(Duration.millis(TICK_MILLIS * 5), () -> fired.add("later"));
+        assertEquals(3, scheduler.getPendingCount());
+
+        scheduler.advanceTo(10);
+        assertEquals(List.of("first"), fired);
+        assertEquals(0, scheduler.getPendingCount());
+    }
+
+    @Test
+    void failingActionDoesNotStopOtherTimersInTheSameTick() {
+        GameScheduler.Timeout failing = scheduler.schedule(Duration.millis(TICK_MILLIS), () -> {
+            throw new IllegalStateException("boom");
+        });
+        GameScheduler.Timeout next = scheduler.schedule(Duration.millis(TICK_MILLIS), () -> fired.add("next"));
+
+        scheduler.advanceTo(1);
+        assertEquals(List.of("next"), fired);
+        assertFalse(failing.isPending());
+        assertFalse(next.isPending());
+        assertEquals(0, scheduler.getPendingCount());
+    }
+
+    @Test
+    void pendingCountReturnsToZeroAfterRescheduling() {
+        // Simulates the inactivity timer being reset on every keystroke.
+        GameScheduler.Timeout inactivity = null;
+        for (int i = 0; i < 1000; i++) {
+            if (inactivity != null) inactivity.cancel();
+            inactivity = scheduler.schedule(Duration.seconds(10), () -> fired.add("hint"));
+            assertEquals(1, scheduler.getPendingCount());
+        }
+        scheduler.schedule(Duration.seconds(5), () -> fired.add("ad"));
+        assertEquals(2, scheduler.getPendingCount());
+
+        scheduler.advanceTo(1000);
+        assertEquals(List.of("ad", "hint"), fired);
+        assertEquals(0, scheduler.getPendingCount());
+        assertFalse(pulse.running);
+    }
+
+    /**
+     * Pulse that only records whether it is running; the test advances the wheel itself.
+     */
+    private static final class ManualPulse implements GameScheduler.Pulse {
+        boolean running;
+
+        @Override
+        public void start(LongConsumer onFrame) {
+            running = true;
+        }
+
+        @Override
+        public void stop() {
+            running = false;
+        }
+    }
+}